@@ -0,0 +1,50 @@
+/* 
+ * $Id$
+ * 
+ * SARL is an general-purpose agent programming language.
+ * More details on http://www.sarl.io
+ * 
+ * Copyright (C) 2014-2021 the original authors or authors.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.sarl.acl.manager;
+
+/**
+ * Priority class of the ACL messages that are received by the conversation manager.
+ * The messages of a class are dispatched to the conversations before the messages
+ * of the lower classes.
+ * 
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 0.13
+ * @see ConversationManager#setMessagePriority(io.sarl.acl.message.Performative, MessagePriority)
+ */
+public enum MessagePriority {
+	/** Highest priority, e.g. for the cancellations and the failures.
+	 */
+	HIGH,
+
+	/** Default priority.
+	 */
+	NORMAL,
+
+	/** Lowest priority, e.g. for the bulk information messages.
+	 */
+	LOW;
+
+}
@@ -0,0 +1,53 @@
+/* 
+ * $Id$
+ * 
+ * SARL is an general-purpose agent programming language.
+ * More details on http://www.sarl.io
+ * 
+ * Copyright (C) 2014-2021 the original authors or authors.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.sarl.acl.routing;
+
+/**
+ * Policy that is applied when a message is sent to a receiver with a full outbound queue.
+ * 
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 0.13
+ * @see BoundedReceiverQueues
+ */
+public enum OverflowPolicy {
+	/** The sender is blocked until the queue has a free place. If the waiting
+	 * is too long, the message is rejected as with {@link #REJECT}.
+	 *
+	 * <p>The thread of the sender is parked during the waiting. Since the agents share the threads
+	 * of the executor service, this policy should be used only when the senders run on their own threads.
+	 */
+	BLOCK,
+
+	/** The oldest message of the queue is dropped.
+	 */
+	DROP_OLDEST,
+
+	/** The message is rejected, and a {@code FAILURE} message is given back to the sender.
+	 * This is the default policy.
+	 */
+	REJECT;
+
+}
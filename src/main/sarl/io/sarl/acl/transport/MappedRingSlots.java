@@ -0,0 +1,61 @@
+/* 
+ * $Id$
+ * 
+ * SARL is an general-purpose agent programming language.
+ * More details on http://www.sarl.io
+ * 
+ * Copyright (C) 2014-2021 the original authors or authors.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.sarl.acl.transport;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * Atomic accesses to the sequences of the consumers into the header of a {@link MappedRingBuffer}.
+ * The accesses are atomic over the processes that are mapping the same file because the sequences
+ * are aligned on 8 bytes into a direct buffer.
+ * 
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 0.13
+ */
+final class MappedRingSlots {
+
+	private static final VarHandle SEQUENCE = MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.nativeOrder());
+
+	private MappedRingSlots() {
+		//
+	}
+
+	/** Change the sequence at the given index if it has the expected value.
+	 *
+	 * @param buffer the mapped bytes.
+	 * @param index the index of the sequence.
+	 * @param expected the expected value of the sequence.
+	 * @param sequence the new value of the sequence.
+	 * @return {@code true} if the sequence was changed.
+	 */
+	static boolean compareAndSet(ByteBuffer buffer, int index, long expected, long sequence) {
+		return SEQUENCE.compareAndSet(buffer, index, expected, sequence);
+	}
+
+}